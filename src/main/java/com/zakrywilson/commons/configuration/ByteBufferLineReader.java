@@ -0,0 +1,86 @@
+package com.zakrywilson.commons.configuration;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the lines of a UTF-8 encoded configuration file directly from a {@link ByteBuffer}.
+ * <p>
+ * The bytes of a line are only copied when decoding the line into a {@link String}. Lines of heap
+ * buffers are decoded straight from the backing array.
+ *
+ * @author Zach Wilson
+ */
+final class ByteBufferLineReader extends LineReader {
+
+    /**
+     * The buffer holding the configuration file. Its position marks the start of the next line.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The position of the start of the configuration file in the buffer.
+     */
+    private final int start;
+
+    /**
+     * The array holding the bytes of a line of a direct buffer while it is decoded.
+     */
+    private byte[] scratch;
+
+    /**
+     * Creates a new line reader. The buffer's position is moved as lines are read.
+     *
+     * @param buffer the buffer holding the configuration file between its position and limit
+     */
+    ByteBufferLineReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.start = buffer.position();
+    }
+
+    @Override
+    String readLine() {
+        int lineStart = buffer.position();
+        int limit = buffer.limit();
+        if (lineStart >= limit) {
+            return null;
+        }
+        int lineEnd = lineStart;
+        byte b = 0;
+        while (lineEnd < limit && (b = buffer.get(lineEnd)) != '\n' && b != '\r') {
+            lineEnd++;
+        }
+        String line = decode(lineStart, lineEnd);
+        int next = lineEnd;
+        if (next < limit) {
+            next++;
+            if (b == '\r' && next < limit && buffer.get(next) == '\n') {
+                next++;
+            }
+        }
+        buffer.position(next);
+        return advance(line, lineStart - start);
+    }
+
+    /**
+     * Decodes a range of the buffer.
+     *
+     * @param from the position of the first byte, inclusive
+     * @param to the position of the last byte, exclusive
+     * @return the decoded string
+     */
+    private String decode(int from, int to) {
+        int length = to - from;
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + from, length,
+                              StandardCharsets.UTF_8);
+        }
+        if (scratch == null || scratch.length < length) {
+            scratch = new byte[Math.max(length, 256)];
+        }
+        buffer.position(from);
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+}
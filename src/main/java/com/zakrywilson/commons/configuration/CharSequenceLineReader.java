@@ -0,0 +1,69 @@
+package com.zakrywilson.commons.configuration;
+
+/**
+ * Reads the lines of a configuration file directly from a {@link CharSequence}.
+ *
+ * @author Zach Wilson
+ */
+final class CharSequenceLineReader extends LineReader {
+
+    /**
+     * The text of the configuration file.
+     */
+    private final CharSequence text;
+
+    /**
+     * Flags whether or not the byte offsets of the lines should be tracked.
+     */
+    private final boolean trackOffsets;
+
+    /**
+     * The index of the start of the next line.
+     */
+    private int position;
+
+    /**
+     * The byte offset of the start of the next line.
+     */
+    private long nextOffset;
+
+    /**
+     * Creates a new line reader.
+     *
+     * @param text the text of the configuration file
+     * @param trackOffsets whether or not the UTF-8 byte offsets of the lines should be tracked
+     */
+    CharSequenceLineReader(CharSequence text, boolean trackOffsets) {
+        this.text = text;
+        this.trackOffsets = trackOffsets;
+    }
+
+    @Override
+    String readLine() {
+        int lineStart = position;
+        int length = text.length();
+        if (lineStart >= length) {
+            return null;
+        }
+        int lineEnd = lineStart;
+        char c = 0;
+        while (lineEnd < length && (c = text.charAt(lineEnd)) != '\n' && c != '\r') {
+            lineEnd++;
+        }
+        String line = text.subSequence(lineStart, lineEnd).toString();
+        position = lineEnd;
+        if (position < length) {
+            position++;
+            if (c == '\r' && position < length && text.charAt(position) == '\n') {
+                position++;
+            }
+        }
+        if (!trackOffsets) {
+            return advance(line, 0L);
+        }
+        long offset = nextOffset;
+        nextOffset += utf8Length(text, lineStart, lineEnd) + (position - lineEnd);
+        return advance(line, offset);
+    }
+
+}
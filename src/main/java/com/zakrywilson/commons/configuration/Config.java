@@ -6,15 +6,34 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.Set;
 
 /**
  * Represents the data for a single configuration file.
+ * <p>
+ * Setting the system property <tt>com.zakrywilson.commons.configuration.lightweightExceptions</tt>
+ * to <tt>true</tt> makes {@link TypeMismatchException} and {@link InvalidConfigurationException}
+ * skip capturing their stack traces, which makes them cheap to throw on hot paths. In this mode,
+ * numeric values are checked before being parsed, so that no {@link NumberFormatException} is
+ * built, and a {@link TypeMismatchException} has no cause. The property is read once, when this
+ * class is loaded, so it must be set at JVM startup (e.g., with <tt>-D</tt>) or before the library
+ * is first used.
  *
  * @author Zach Wilson
  */
 public final class Config {
 
+    /**
+     * Flags whether or not exceptions are thrown without capturing their stack traces. The system
+     * property is only read when this class is loaded.
+     */
+    private static volatile boolean lightweightExceptions =
+            Boolean.getBoolean("com.zakrywilson.commons.configuration.lightweightExceptions");
+
     /**
      * A collection of all configuration data points.
      */
@@ -30,7 +49,7 @@ public final class Config {
      *         file
      */
     public Config(String configFilePath) throws IOException, InvalidConfigurationException {
-        initialize(configFilePath);
+        initialize(new ConfigFileParser(configFilePath), null);
     }
 
     /**
@@ -43,7 +62,89 @@ public final class Config {
      *         file
      */
     public Config(InputStream is) throws IOException, InvalidConfigurationException {
-        initialize(is);
+        initialize(new ConfigFileParser(is), null);
+    }
+
+    /**
+     * Creates a new configuration containing a collection of data elements stored as <i>key</i>,
+     * <i>value</i> entries.
+     * <p>
+     * Malformed lines are recorded in the provided report and skipped, so that the configuration
+     * contains the data elements of every valid line.
+     *
+     * @param configFilePath the path to the configuration file to be set
+     * @param report the report collecting the malformed lines
+     * @throws IOException if an I/O error should occur
+     * @throws InvalidConfigurationException if the configuration file does not exist or is not a
+     *         file
+     * @throws IllegalArgumentException if the report is <tt>null</tt>
+     */
+    public Config(String configFilePath, ParseReport report)
+            throws IOException, InvalidConfigurationException, IllegalArgumentException {
+        checkReport(report);
+        initialize(new ConfigFileParser(configFilePath), report);
+    }
+
+    /**
+     * Creates a new configuration containing a collection of data elements stored as <i>key</i>,
+     * <i>value</i> entries.
+     * <p>
+     * Malformed lines are recorded in the provided report and skipped, so that the configuration
+     * contains the data elements of every valid line.
+     *
+     * @param is an input stream to the configuration file
+     * @param report the report collecting the malformed lines
+     * @throws IOException if an I/O error should occur
+     * @throws InvalidConfigurationException if the configuration file does not exist or is not a
+     *         file
+     * @throws IllegalArgumentException if the report is <tt>null</tt>
+     */
+    public Config(InputStream is, ParseReport report)
+            throws IOException, InvalidConfigurationException, IllegalArgumentException {
+        checkReport(report);
+        initialize(new ConfigFileParser(is), report);
+    }
+
+    /**
+     * Creates a new configuration containing a collection of data elements stored as <i>key</i>,
+     * <i>value</i> entries.
+     *
+     * @param source the source of the configuration file
+     * @throws IOException if an I/O error should occur
+     * @throws InvalidConfigurationException if the configuration file is of an invalid format
+     * @throws IllegalArgumentException if the source is <tt>null</tt>
+     */
+    public Config(ConfigSource source)
+            throws IOException, InvalidConfigurationException, IllegalArgumentException {
+        initialize(new ConfigFileParser(source), null);
+    }
+
+    /**
+     * Creates a new configuration containing a collection of data elements stored as <i>key</i>,
+     * <i>value</i> entries.
+     * <p>
+     * Malformed lines are recorded in the provided report and skipped, so that the configuration
+     * contains the data elements of every valid line.
+     *
+     * @param source the source of the configuration file
+     * @param report the report collecting the malformed lines
+     * @throws IOException if an I/O error should occur
+     * @throws InvalidConfigurationException if the configuration file is of an invalid format
+     * @throws IllegalArgumentException if the source or the report is <tt>null</tt>
+     */
+    public Config(ConfigSource source, ParseReport report)
+            throws IOException, InvalidConfigurationException, IllegalArgumentException {
+        checkReport(report);
+        initialize(new ConfigFileParser(source), report);
+    }
+
+    /**
+     * Creates a new configuration from already parsed data elements.
+     *
+     * @param elements the data elements
+     */
+    Config(Map<String, String> elements) {
+        this.elements = elements;
     }
 
     /**
@@ -98,14 +199,7 @@ public final class Config {
      *         can be found by the name provided
      */
     public boolean getBoolean(String name) throws TypeMismatchException, IllegalArgumentException {
-        String element = getByName(name);
-        if (element.equalsIgnoreCase("true") || element.equalsIgnoreCase("1")) {
-            return true;
-        }
-        if (element.equalsIgnoreCase("false") || element.equalsIgnoreCase("0")) {
-            return false;
-        }
-        throw new TypeMismatchException("Value is not a boolean: " + element);
+        return parseBoolean(getByName(name));
     }
 
     /**
@@ -121,12 +215,7 @@ public final class Config {
      *         can be found by the name provided
      */
     public byte getByte(String name) throws TypeMismatchException, IllegalArgumentException {
-        String element = getByName(name);
-        try {
-            return Byte.parseByte(element);
-        } catch (NumberFormatException e) {
-            throw new TypeMismatchException("Value is not a byte: " + element, e);
-        }
+        return parseByte(getByName(name));
     }
 
     /**
@@ -143,11 +232,7 @@ public final class Config {
      *         can be found by the name provided
      */
     public char getChar(String name) throws TypeMismatchException, IllegalArgumentException {
-        String element = getByName(name);
-        if (element.length() != 1) {
-            throw new TypeMismatchException("Value is not a single character: " + element);
-        }
-        return element.charAt(0);
+        return parseChar(getByName(name));
     }
 
     /**
@@ -163,12 +248,7 @@ public final class Config {
      *         can be found by the name provided
      */
     public short getShort(String name) throws TypeMismatchException, IllegalArgumentException {
-        String element = getByName(name);
-        try {
-            return Short.parseShort(element);
-        } catch (NumberFormatException e) {
-            throw new TypeMismatchException("Value is not a short: " + element, e);
-        }
+        return parseShort(getByName(name));
     }
 
     /**
@@ -184,12 +264,7 @@ public final class Config {
      *         can be found by the name provided
      */
     public int getInt(String name) throws TypeMismatchException, IllegalArgumentException {
-        String element = getByName(name);
-        try {
-            return Integer.parseInt(element);
-        } catch (NumberFormatException e) {
-            throw new TypeMismatchException("Value is not an integer: " + element, e);
-        }
+        return parseInt(getByName(name));
     }
 
     /**
@@ -205,12 +280,7 @@ public final class Config {
      *         can be found by the name provided
      */
     public long getLong(String name) throws TypeMismatchException, IllegalArgumentException {
-        String element = getByName(name);
-        try {
-            return Long.parseLong(element);
-        } catch (NumberFormatException e) {
-            throw new TypeMismatchException("Value is not a long: " + element, e);
-        }
+        return parseLong(getByName(name));
     }
 
     /**
@@ -226,12 +296,7 @@ public final class Config {
      *         can be found by the name provided
      */
     public float getFloat(String name) throws TypeMismatchException, IllegalArgumentException {
-        String element = getByName(name);
-        try {
-            return Float.parseFloat(element);
-        } catch (NumberFormatException e) {
-            throw new TypeMismatchException("Value is not a float: " + element, e);
-        }
+        return parseFloat(getByName(name));
     }
 
     /**
@@ -247,12 +312,162 @@ public final class Config {
      *         can be found by the name provided
      */
     public double getDouble(String name) throws TypeMismatchException, IllegalArgumentException {
-        String element = getByName(name);
-        try {
-            return Double.parseDouble(element);
-        } catch (NumberFormatException e) {
-            throw new TypeMismatchException("Value is not a double: " + element, e);
-        }
+        return parseDouble(getByName(name));
+    }
+
+    /**
+     * Returns <tt>true</tt> if the configuration contains a data element with the provided name.
+     *
+     * @param name the name of the element
+     * @return <tt>true</tt> if the element exists
+     * @throws IllegalArgumentException if the name is <tt>null</tt> or blank
+     */
+    public boolean contains(String name) throws IllegalArgumentException {
+        return findByName(name) != null;
+    }
+
+    /**
+     * Finds the {@link String} representation of the data element value without throwing if no
+     * element exists for the name provided.
+     *
+     * @param name the name of the element to be used to obtain its value
+     * @return the element's value or an empty {@link Optional} if no element is found
+     * @throws IllegalArgumentException if the name is <tt>null</tt> or blank
+     */
+    public Optional<String> findString(String name) throws IllegalArgumentException {
+        return Optional.ofNullable(findByName(name));
+    }
+
+    /**
+     * Finds the element as an <tt>int</tt> without throwing if no element exists for the name
+     * provided.
+     *
+     * @param name the name of the element to be used to obtain its value
+     * @return the value of the data element or an empty {@link OptionalInt} if no element is found
+     * @throws TypeMismatchException if the element exists but cannot be parsed into an
+     *         <tt>int</tt>
+     * @throws IllegalArgumentException if the name is <tt>null</tt> or blank
+     */
+    public OptionalInt findInt(String name) throws TypeMismatchException, IllegalArgumentException {
+        String element = findByName(name);
+        return element == null ? OptionalInt.empty() : OptionalInt.of(parseInt(element));
+    }
+
+    /**
+     * Finds the element as a <tt>long</tt> without throwing if no element exists for the name
+     * provided.
+     *
+     * @param name the name of the element to be used to obtain its value
+     * @return the value of the data element or an empty {@link OptionalLong} if no element is
+     *         found
+     * @throws TypeMismatchException if the element exists but cannot be parsed into a
+     *         <tt>long</tt>
+     * @throws IllegalArgumentException if the name is <tt>null</tt> or blank
+     */
+    public OptionalLong findLong(String name)
+            throws TypeMismatchException, IllegalArgumentException {
+        String element = findByName(name);
+        return element == null ? OptionalLong.empty() : OptionalLong.of(parseLong(element));
+    }
+
+    /**
+     * Finds the element as a <tt>double</tt> without throwing if no element exists for the name
+     * provided.
+     *
+     * @param name the name of the element to be used to obtain its value
+     * @return the value of the data element or an empty {@link OptionalDouble} if no element is
+     *         found
+     * @throws TypeMismatchException if the element exists but cannot be parsed into a
+     *         <tt>double</tt>
+     * @throws IllegalArgumentException if the name is <tt>null</tt> or blank
+     */
+    public OptionalDouble findDouble(String name)
+            throws TypeMismatchException, IllegalArgumentException {
+        String element = findByName(name);
+        return element == null ? OptionalDouble.empty() : OptionalDouble.of(parseDouble(element));
+    }
+
+    /**
+     * Gets the {@link String} representation of the data element value, or the default value if
+     * no element exists for the name provided.
+     *
+     * @param name the name of the element to be used to obtain its value
+     * @param defaultValue the value to be returned if no element is found
+     * @return the element's value or <tt>defaultValue</tt> if no element is found
+     * @throws IllegalArgumentException if the name is <tt>null</tt> or blank
+     */
+    public String getStringOrDefault(String name, String defaultValue)
+            throws IllegalArgumentException {
+        String element = findByName(name);
+        return element == null ? defaultValue : element;
+    }
+
+    /**
+     * Gets the data element's value as a <tt>boolean</tt>, or the default value if no element
+     * exists for the name provided.
+     *
+     * @param name the name of the element to be used to obtain its value
+     * @param defaultValue the value to be returned if no element is found
+     * @return the value of the data element or <tt>defaultValue</tt> if no element is found
+     * @throws TypeMismatchException if the element exists but cannot be parsed into a
+     *         <tt>boolean</tt>
+     * @throws IllegalArgumentException if the name is <tt>null</tt> or blank
+     */
+    public boolean getBooleanOrDefault(String name, boolean defaultValue)
+            throws TypeMismatchException, IllegalArgumentException {
+        String element = findByName(name);
+        return element == null ? defaultValue : parseBoolean(element);
+    }
+
+    /**
+     * Gets the element as an <tt>int</tt>, or the default value if no element exists for the
+     * name provided.
+     *
+     * @param name the name of the element to be used to obtain its value
+     * @param defaultValue the value to be returned if no element is found
+     * @return the value of the data element or <tt>defaultValue</tt> if no element is found
+     * @throws TypeMismatchException if the element exists but cannot be parsed into an
+     *         <tt>int</tt>
+     * @throws IllegalArgumentException if the name is <tt>null</tt> or blank
+     */
+    public int getIntOrDefault(String name, int defaultValue)
+            throws TypeMismatchException, IllegalArgumentException {
+        String element = findByName(name);
+        return element == null ? defaultValue : parseInt(element);
+    }
+
+    /**
+     * Gets the element as a <tt>long</tt>, or the default value if no element exists for the
+     * name provided.
+     *
+     * @param name the name of the element to be used to obtain its value
+     * @param defaultValue the value to be returned if no element is found
+     * @return the value of the data element or <tt>defaultValue</tt> if no element is found
+     * @throws TypeMismatchException if the element exists but cannot be parsed into a
+     *         <tt>long</tt>
+     * @throws IllegalArgumentException if the name is <tt>null</tt> or blank
+     */
+    public long getLongOrDefault(String name, long defaultValue)
+            throws TypeMismatchException, IllegalArgumentException {
+        String element = findByName(name);
+        return element == null ? defaultValue : parseLong(element);
+    }
+
+    /**
+     * Gets the element as a <tt>double</tt>, or the default value if no element exists for the
+     * name provided.
+     *
+     * @param name the name of the element to be used to obtain its value
+     * @param defaultValue the value to be returned if no element is found
+     * @return the value of the data element or <tt>defaultValue</tt> if no element is found
+     * @throws TypeMismatchException if the element exists but cannot be parsed into a
+     *         <tt>double</tt>
+     * @throws IllegalArgumentException if the name is <tt>null</tt> or blank
+     */
+    public double getDoubleOrDefault(String name, double defaultValue)
+            throws TypeMismatchException, IllegalArgumentException {
+        String element = findByName(name);
+        return element == null ? defaultValue : parseDouble(element);
     }
 
     /**
@@ -336,33 +551,382 @@ public final class Config {
     }
 
     /**
-     * Initializes the configuration by parsing the configuration file and storing the data
+     * Returns <tt>true</tt> if the provided object is a configuration containing the same data
      * elements.
      *
-     * @param configFilePath the path to the configuration file to be parsed
-     * @throws IOException if an I/O error should occur
-     * @throws InvalidConfigurationException if the configuration file does not exist or is not a
-     *         file
+     * @param o the object to be compared against
+     * @return <tt>true</tt> if the configurations are equal
      */
-    private void initialize(String configFilePath) throws IOException, InvalidConfigurationException {
-        try (ConfigFileParser parser = new ConfigFileParser(configFilePath)) {
-            elements = parser.parseConfigFile();
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Config)) {
+            return false;
         }
+        return elements.equals(((Config) o).elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return elements.hashCode();
+    }
+
+    /**
+     * Returns <tt>true</tt> if exceptions are thrown without capturing their stack traces.
+     *
+     * @return <tt>true</tt> in lightweight exception mode
+     */
+    static boolean isLightweightExceptions() {
+        return lightweightExceptions;
+    }
+
+    /**
+     * Sets whether or not exceptions are thrown without capturing their stack traces, overriding
+     * the system property.
+     *
+     * @param lightweight <tt>true</tt> to enable lightweight exception mode
+     */
+    static void setLightweightExceptions(boolean lightweight) {
+        lightweightExceptions = lightweight;
+    }
+
+    /**
+     * Computes the changes required to turn this configuration into <tt>other</tt>. The returned
+     * diff may be applied as a patch via {@link ConfigDiff#apply(Config)}.
+     * <p>
+     * The values of the elements present in both configurations are compared with
+     * {@link String#equals(Object)}. Large configurations are compared in parallel.
+     *
+     * @param other the configuration to be compared against
+     * @return the added, removed and changed data elements
+     * @throws IllegalArgumentException if the other configuration is <tt>null</tt>
+     */
+    public ConfigDiff diff(Config other) throws IllegalArgumentException {
+        if (other == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        return ConfigDiff.compute(elements, other.elements);
+    }
+
+    /**
+     * Gets the underlying collection of data elements.
+     *
+     * @return the data elements
+     */
+    Map<String, String> getElementMap() {
+        return elements;
     }
 
     /**
      * Initializes the configuration by parsing the configuration file and storing the data
      * elements.
      *
-     * @param is an input stream to the configuration file
+     * @param parser the parser of the configuration file
+     * @param report the report collecting the malformed lines, or <tt>null</tt> to fail on the
+     *        first malformed line
      * @throws IOException if an I/O error should occur
-     * @throws InvalidConfigurationException if the configuration file does not exist or is not a
-     *         file
+     * @throws InvalidConfigurationException if the configuration file is of an invalid format
+     */
+    private void initialize(ConfigFileParser parser, ParseReport report)
+            throws IOException, InvalidConfigurationException {
+        try (ConfigFileParser p = parser) {
+            elements = p.parseConfigFile(report);
+        }
+    }
+
+    /**
+     * Checks that a parse report has been provided. The check is made before the configuration
+     * file is opened, so that no stream is left open if it fails.
+     *
+     * @param report the report collecting the malformed lines
+     * @throws IllegalArgumentException if the report is <tt>null</tt>
+     */
+    private static void checkReport(ParseReport report) throws IllegalArgumentException {
+        if (report == null) {
+            throw new IllegalArgumentException("Parse report cannot be null");
+        }
+    }
+
+    /**
+     * Parses a data element value as a <tt>boolean</tt>.
+     *
+     * @param element the value of the data element
+     * @return the value as a <tt>boolean</tt>
+     * @throws TypeMismatchException if the value cannot be parsed into a <tt>boolean</tt>
+     */
+    private static boolean parseBoolean(String element) throws TypeMismatchException {
+        if (element.equalsIgnoreCase("true") || element.equalsIgnoreCase("1")) {
+            return true;
+        }
+        if (element.equalsIgnoreCase("false") || element.equalsIgnoreCase("0")) {
+            return false;
+        }
+        throw typeMismatch("Value is not a boolean: " + element, null);
+    }
+
+    /**
+     * Parses a data element value as a <tt>byte</tt>.
+     *
+     * @param element the value of the data element
+     * @return the value as a <tt>byte</tt>
+     * @throws TypeMismatchException if the value cannot be parsed into a <tt>byte</tt>
+     */
+    private static byte parseByte(String element) throws TypeMismatchException {
+        if (lightweightExceptions && !isInteger(element, Byte.MIN_VALUE, Byte.MAX_VALUE)) {
+            throw typeMismatch("Value is not a byte: " + element, null);
+        }
+        try {
+            return Byte.parseByte(element);
+        } catch (NumberFormatException e) {
+            throw typeMismatch("Value is not a byte: " + element, e);
+        }
+    }
+
+    /**
+     * Parses a data element value as a <tt>char</tt>.
+     *
+     * @param element the value of the data element
+     * @return the value as a <tt>char</tt>
+     * @throws TypeMismatchException if the value cannot be parsed into a <tt>char</tt>
+     */
+    private static char parseChar(String element) throws TypeMismatchException {
+        if (element.length() != 1) {
+            throw typeMismatch("Value is not a single character: " + element, null);
+        }
+        return element.charAt(0);
+    }
+
+    /**
+     * Parses a data element value as a <tt>short</tt>.
+     *
+     * @param element the value of the data element
+     * @return the value as a <tt>short</tt>
+     * @throws TypeMismatchException if the value cannot be parsed into a <tt>short</tt>
+     */
+    private static short parseShort(String element) throws TypeMismatchException {
+        if (lightweightExceptions && !isInteger(element, Short.MIN_VALUE, Short.MAX_VALUE)) {
+            throw typeMismatch("Value is not a short: " + element, null);
+        }
+        try {
+            return Short.parseShort(element);
+        } catch (NumberFormatException e) {
+            throw typeMismatch("Value is not a short: " + element, e);
+        }
+    }
+
+    /**
+     * Parses a data element value as an <tt>int</tt>.
+     *
+     * @param element the value of the data element
+     * @return the value as an <tt>int</tt>
+     * @throws TypeMismatchException if the value cannot be parsed into an <tt>int</tt>
+     */
+    private static int parseInt(String element) throws TypeMismatchException {
+        if (lightweightExceptions && !isInteger(element, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+            throw typeMismatch("Value is not an integer: " + element, null);
+        }
+        try {
+            return Integer.parseInt(element);
+        } catch (NumberFormatException e) {
+            throw typeMismatch("Value is not an integer: " + element, e);
+        }
+    }
+
+    /**
+     * Parses a data element value as a <tt>long</tt>.
+     *
+     * @param element the value of the data element
+     * @return the value as a <tt>long</tt>
+     * @throws TypeMismatchException if the value cannot be parsed into a <tt>long</tt>
+     */
+    private static long parseLong(String element) throws TypeMismatchException {
+        if (lightweightExceptions && !isInteger(element, Long.MIN_VALUE, Long.MAX_VALUE)) {
+            throw typeMismatch("Value is not a long: " + element, null);
+        }
+        try {
+            return Long.parseLong(element);
+        } catch (NumberFormatException e) {
+            throw typeMismatch("Value is not a long: " + element, e);
+        }
+    }
+
+    /**
+     * Parses a data element value as a <tt>float</tt>.
+     *
+     * @param element the value of the data element
+     * @return the value as a <tt>float</tt>
+     * @throws TypeMismatchException if the value cannot be parsed into a <tt>float</tt>
+     */
+    private static float parseFloat(String element) throws TypeMismatchException {
+        if (lightweightExceptions && !isDecimal(element)) {
+            throw typeMismatch("Value is not a float: " + element, null);
+        }
+        try {
+            return Float.parseFloat(element);
+        } catch (NumberFormatException e) {
+            throw typeMismatch("Value is not a float: " + element, e);
+        }
+    }
+
+    /**
+     * Parses a data element value as a <tt>double</tt>.
+     *
+     * @param element the value of the data element
+     * @return the value as a <tt>double</tt>
+     * @throws TypeMismatchException if the value cannot be parsed into a <tt>double</tt>
+     */
+    private static double parseDouble(String element) throws TypeMismatchException {
+        if (lightweightExceptions && !isDecimal(element)) {
+            throw typeMismatch("Value is not a double: " + element, null);
+        }
+        try {
+            return Double.parseDouble(element);
+        } catch (NumberFormatException e) {
+            throw typeMismatch("Value is not a double: " + element, e);
+        }
+    }
+
+    /**
+     * Checks whether a value can be parsed by {@link Long#parseLong(String)} into a value within
+     * the provided range, without building a {@link NumberFormatException} if it cannot.
+     *
+     * @param s the value
+     * @param min the smallest accepted value
+     * @param max the largest accepted value
+     * @return <tt>true</tt> if the value is an integer within the range
+     */
+    private static boolean isInteger(String s, long min, long max) {
+        int length = s.length();
+        if (length == 0) {
+            return false;
+        }
+        int i = 0;
+        long limit = -max;
+        char first = s.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            if (first == '-') {
+                limit = min;
+            }
+            i++;
+        }
+        // Accumulate negatively, as the negative range is larger than the positive one
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(s.charAt(i), 10);
+            if (digit < 0 || result < multiplyLimit) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a value can be parsed by {@link Double#parseDouble(String)} and
+     * {@link Float#parseFloat(String)}, without building a {@link NumberFormatException} if it
+     * cannot.
+     *
+     * @param s the value
+     * @return <tt>true</tt> if the value is a floating-point number
+     */
+    private static boolean isDecimal(String s) {
+        int i = 0;
+        int end = s.length();
+        while (i < end && s.charAt(i) <= ' ') {
+            i++;
+        }
+        while (end > i && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (i < end && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+            i++;
+        }
+        if (end - i == 3 && s.startsWith("NaN", i)) {
+            return true;
+        }
+        if (end - i == 8 && s.startsWith("Infinity", i)) {
+            return true;
+        }
+        if (end > i && "fFdD".indexOf(s.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        boolean hex = end - i > 2 && s.charAt(i) == '0'
+                && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X');
+        int radix = hex ? 16 : 10;
+        if (hex) {
+            i += 2;
+        }
+        int start = i;
+        i = skipDigits(s, i, end, radix);
+        int digits = i - start;
+        if (i < end && s.charAt(i) == '.') {
+            start = ++i;
+            i = skipDigits(s, i, end, radix);
+            digits += i - start;
+        }
+        if (digits == 0) {
+            return false;
+        }
+        char exponent = hex ? 'p' : 'e';
+        if (i < end && Character.toLowerCase(s.charAt(i)) == exponent) {
+            i++;
+            if (i < end && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+                i++;
+            }
+            start = i;
+            i = skipDigits(s, i, end, 10);
+            if (i == start) {
+                return false;
+            }
+        } else if (hex) {
+            return false; // Hexadecimal values require a binary exponent
+        }
+        return i == end;
+    }
+
+    /**
+     * Skips the ASCII digits of a value.
+     *
+     * @param s the value
+     * @param from the index of the first character to be checked
+     * @param end the index of the end of the value, exclusive
+     * @param radix <tt>10</tt> for decimal digits or <tt>16</tt> for hexadecimal digits
+     * @return the index of the first character which is not a digit
      */
-    private void initialize(InputStream is) throws IOException, InvalidConfigurationException {
-        try (ConfigFileParser parser = new ConfigFileParser(is)) {
-            elements = parser.parseConfigFile();
+    private static int skipDigits(String s, int from, int end, int radix) {
+        int i = from;
+        while (i < end) {
+            char c = s.charAt(i);
+            boolean digit = (c >= '0' && c <= '9') || (radix == 16
+                    && ((c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F')));
+            if (!digit) {
+                break;
+            }
+            i++;
         }
+        return i;
+    }
+
+    /**
+     * Creates a {@link TypeMismatchException}, skipping the stack trace in lightweight exception
+     * mode.
+     *
+     * @param msg the detail message
+     * @param cause the cause, or <tt>null</tt> if there is none
+     * @return the exception
+     */
+    private static TypeMismatchException typeMismatch(String msg, Throwable cause) {
+        return new TypeMismatchException(msg, cause, !lightweightExceptions);
     }
 
     /**
@@ -377,17 +941,30 @@ public final class Config {
      *         element is found
      */
     private String getByName(String name) throws IllegalArgumentException {
+        String element = findByName(name);
+        if (element == null) {
+            throw new IllegalArgumentException("No element exists for name: " + name);
+        }
+        return element;
+    }
+
+    /**
+     * Finds an element by its provided name. This method also checks against invalid input
+     * parameters, i.e., the method throws an {@link IllegalArgumentException} if <tt>name</tt>
+     * is null or blank.
+     *
+     * @param name the name used to find an element
+     * @return the element or <tt>null</tt> if no element is found
+     * @throws IllegalArgumentException if <tt>name</tt> is <tt>null</tt> or blank
+     */
+    private String findByName(String name) throws IllegalArgumentException {
         if (name == null) {
             throw new IllegalArgumentException("Name cannot be null");
         }
         if (name.trim().length() == 0) {
             throw new IllegalArgumentException("Name cannot be blank");
         }
-        String element = elements.get(name);
-        if (element == null) {
-            throw new IllegalArgumentException("No element exists for name: " + name);
-        }
-        return element;
+        return elements.get(name);
     }
 
 }
@@ -0,0 +1,165 @@
+package com.zakrywilson.commons.configuration;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Represents the set of changes between two configurations.
+ * <p>
+ * A diff can be applied as a patch to any configuration to create a new configuration with the
+ * changes applied.
+ *
+ * @author Zach Wilson
+ */
+public final class ConfigDiff {
+
+    /**
+     * The combined number of data elements at which the diff is computed in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    /**
+     * The data elements only present in the target configuration.
+     */
+    private final Map<String, String> added;
+
+    /**
+     * The names of the data elements only present in the source configuration.
+     */
+    private final Set<String> removed;
+
+    /**
+     * The data elements present in both configurations whose values differ, holding the target
+     * values.
+     */
+    private final Map<String, String> changed;
+
+    /**
+     * Creates a new diff.
+     *
+     * @param added the data elements only present in the target configuration
+     * @param removed the names of the data elements only present in the source configuration
+     * @param changed the data elements whose values differ, holding the target values
+     */
+    private ConfigDiff(Map<String, String> added, Set<String> removed, Map<String, String> changed) {
+        this.added = Collections.unmodifiableMap(added);
+        this.removed = Collections.unmodifiableSet(removed);
+        this.changed = Collections.unmodifiableMap(changed);
+    }
+
+    /**
+     * Gets the data elements only present in the target configuration.
+     *
+     * @return the added data elements
+     */
+    public Map<String, String> getAdded() {
+        return added;
+    }
+
+    /**
+     * Gets the names of the data elements only present in the source configuration.
+     *
+     * @return the names of the removed data elements
+     */
+    public Set<String> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Gets the data elements present in both configurations whose values differ. The values
+     * returned are those of the target configuration.
+     *
+     * @return the changed data elements
+     */
+    public Map<String, String> getChanged() {
+        return changed;
+    }
+
+    /**
+     * Returns <tt>true</tt> if the two configurations contain the same data elements.
+     *
+     * @return <tt>true</tt> if there are no changes
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets the total number of added, removed and changed data elements.
+     *
+     * @return the number of changes
+     */
+    public int size() {
+        return added.size() + removed.size() + changed.size();
+    }
+
+    /**
+     * Applies this diff as a patch to the provided configuration. The provided configuration is
+     * not modified.
+     * <p>
+     * The patch is applied as is: removed names missing from <tt>config</tt> are ignored, and added
+     * and changed data elements overwrite any existing value.
+     *
+     * @param config the configuration to be patched
+     * @return a new configuration with the changes applied
+     * @throws IllegalArgumentException if the configuration is <tt>null</tt>
+     */
+    public Config apply(Config config) throws IllegalArgumentException {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        Map<String, String> elements = new HashMap<>(config.getElementMap());
+        elements.keySet().removeAll(removed);
+        elements.putAll(added);
+        elements.putAll(changed);
+        return new Config(elements);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConfigDiff[added=%d, removed=%d, changed=%d]",
+                             added.size(), removed.size(), changed.size());
+    }
+
+    /**
+     * Computes the changes required to turn the source data elements into the target data
+     * elements. Values present in both are compared with {@link String#equals(Object)}, and large
+     * inputs are compared in parallel.
+     *
+     * @param source the data elements of the source configuration
+     * @param target the data elements of the target configuration
+     * @return the diff
+     */
+    static ConfigDiff compute(Map<String, String> source, Map<String, String> target) {
+        boolean parallel = source.size() + target.size() >= PARALLEL_THRESHOLD;
+
+        Set<String> removed = stream(source.keySet(), parallel)
+                .filter(name -> !target.containsKey(name))
+                .collect(Collectors.toSet());
+
+        Map<Boolean, Map<String, String>> addedOrChanged = stream(target.entrySet(), parallel)
+                .filter(e -> !e.getValue().equals(source.get(e.getKey())))
+                .collect(Collectors.partitioningBy(e -> source.containsKey(e.getKey()),
+                         Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+
+        return new ConfigDiff(addedOrChanged.get(false), removed, addedOrChanged.get(true));
+    }
+
+    /**
+     * Streams a collection, either sequentially or in parallel.
+     *
+     * @param collection the collection to be streamed
+     * @param parallel whether or not the stream should be parallel
+     * @param <T> the type of the elements
+     * @return the stream
+     */
+    private static <T> Stream<T> stream(Collection<T> collection, boolean parallel) {
+        return parallel ? collection.parallelStream() : collection.stream();
+    }
+
+}
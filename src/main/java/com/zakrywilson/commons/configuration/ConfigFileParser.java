@@ -1,12 +1,10 @@
 package com.zakrywilson.commons.configuration;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,10 +16,15 @@ import java.util.Map;
 final class ConfigFileParser implements AutoCloseable {
 
     /**
-     * The input stream for the configuration file.
+     * The input stream for the configuration file, or <tt>null</tt> if parsed from a source.
      */
     private InputStream stream;
 
+    /**
+     * The source of the configuration file, or <tt>null</tt> if parsed from a stream.
+     */
+    private ConfigSource source;
+
     /**
      * Creates a new configuration file parser.
      *
@@ -47,6 +50,19 @@ final class ConfigFileParser implements AutoCloseable {
         this.stream = is;
     }
 
+    /**
+     * Creates a new configuration file parser.
+     *
+     * @param source the source of the configuration file
+     * @throws IllegalArgumentException if the source is <tt>null</tt>
+     */
+    public ConfigFileParser(ConfigSource source) throws IllegalArgumentException {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null.");
+        }
+        this.source = source;
+    }
+
     /**
      * Parses the configuration file and returns the {@link Map} containing all of the data points.
      *
@@ -56,11 +72,40 @@ final class ConfigFileParser implements AutoCloseable {
      *         file
      */
     public Map<String, String> parseConfigFile() throws IOException, InvalidConfigurationException {
+        return parseConfigFile(null);
+    }
+
+    /**
+     * Parses the configuration file and returns the {@link Map} containing all of the data points.
+     * <p>
+     * If a report is provided, malformed lines are recorded in the report and skipped rather than
+     * failing the parse, and the returned collection contains the data of all valid lines.
+     *
+     * @param report the report collecting the malformed lines, or <tt>null</tt> to fail on the
+     *        first malformed line
+     * @return the collection of data
+     * @throws IOException if an I/O exception occurs
+     * @throws InvalidConfigurationException if no report is provided and the configuration file
+     *         is of an invalid format
+     */
+    public Map<String, String> parseConfigFile(ParseReport report)
+            throws IOException, InvalidConfigurationException {
         Map<String, String> elements = new HashMap<>();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, "UTF-8"))) {
+        try (LineReader reader = openReader(report != null)) {
             String nextLine = reader.readLine();
             while (nextLine != null) {
-                Line line = new Line(nextLine);
+                Line line;
+                try {
+                    line = new Line(nextLine);
+                } catch (InvalidConfigurationException e) {
+                    if (report == null) {
+                        throw e;
+                    }
+                    report.add(reader.getLineNumber(), Line.findMalformedColumn(nextLine),
+                               reader.getByteOffset(), e.getMessage());
+                    nextLine = reader.readLine();
+                    continue;
+                }
                 if (line.containsData()) {
                     elements.put(line.getName(), line.getElement());
                 }
@@ -71,7 +116,7 @@ final class ConfigFileParser implements AutoCloseable {
     }
 
     /**
-     * Closes {@link InputStream}.
+     * Closes {@link InputStream}, if any.
      *
      * @throws IOException if an I/O error occurs
      */
@@ -82,6 +127,20 @@ final class ConfigFileParser implements AutoCloseable {
         }
     }
 
+    /**
+     * Opens a reader over the lines of the configuration file.
+     *
+     * @param trackOffsets whether or not the byte offsets of the lines are needed
+     * @return the line reader
+     * @throws IOException if an I/O error occurs
+     */
+    private LineReader openReader(boolean trackOffsets) throws IOException {
+        if (source != null) {
+            return source.open(trackOffsets);
+        }
+        return new InputStreamLineReader(stream);
+    }
+
     /**
      * Initializes the parser by verifying that the configuration file exists and is a file.
      *
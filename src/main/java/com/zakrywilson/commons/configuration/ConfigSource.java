@@ -0,0 +1,327 @@
+package com.zakrywilson.commons.configuration;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Represents the content of a configuration file, wherever it is held.
+ * <p>
+ * Sources read the content in place: buffers, arrays and character sequences are parsed directly
+ * without being copied into a stream first. Small files are read into memory with a single read,
+ * and large files are memory-mapped. A source may be parsed any number of times, and parsing never
+ * modifies the underlying content. The bytes of a source are expected to be encoded in UTF-8.
+ *
+ * @author Zach Wilson
+ */
+public abstract class ConfigSource {
+
+    /**
+     * The size in bytes from which files are memory-mapped rather than read into memory.
+     */
+    private static final long MAP_THRESHOLD = 1 << 20;
+
+    /**
+     * Creates a new configuration source.
+     */
+    ConfigSource() {}
+
+    /**
+     * Creates a source for the bytes between the position and the limit of a buffer. The buffer's
+     * position and limit are not modified, and its content must not be modified while it is
+     * parsed.
+     *
+     * @param buffer the buffer holding the configuration file
+     * @return the source
+     * @throws IllegalArgumentException if the buffer is <tt>null</tt>
+     */
+    public static ConfigSource of(ByteBuffer buffer) throws IllegalArgumentException {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        return new ByteBufferSource(buffer.duplicate());
+    }
+
+    /**
+     * Creates a source for a byte array.
+     *
+     * @param bytes the bytes of the configuration file
+     * @return the source
+     * @throws IllegalArgumentException if the array is <tt>null</tt>
+     */
+    public static ConfigSource of(byte[] bytes) throws IllegalArgumentException {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Bytes cannot be null");
+        }
+        return of(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Creates a source for a range of a byte array.
+     *
+     * @param bytes the array holding the configuration file
+     * @param offset the index of the first byte of the configuration file
+     * @param length the length of the configuration file in bytes
+     * @return the source
+     * @throws IllegalArgumentException if the array is <tt>null</tt> or the range is out of
+     *         bounds
+     */
+    public static ConfigSource of(byte[] bytes, int offset, int length)
+            throws IllegalArgumentException {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Bytes cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid range [%d, %d) for array of length %d", offset, offset + length,
+                    bytes.length));
+        }
+        return new ByteBufferSource(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    /**
+     * Creates a source for a character sequence. The sequence must not be modified while it is
+     * parsed.
+     *
+     * @param text the text of the configuration file
+     * @return the source
+     * @throws IllegalArgumentException if the text is <tt>null</tt>
+     */
+    public static ConfigSource of(CharSequence text) throws IllegalArgumentException {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+        return new CharSequenceSource(text);
+    }
+
+    /**
+     * Creates a source for a file. Files of 1 MiB or more are memory-mapped when parsed, smaller
+     * files are read into memory. A mapping is only released once it has been garbage-collected,
+     * which may keep the file locked on some platforms until then.
+     *
+     * @param path the path to the configuration file
+     * @return the source
+     * @throws IllegalArgumentException if the path is <tt>null</tt>
+     */
+    public static ConfigSource of(Path path) throws IllegalArgumentException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        return new PathSource(path);
+    }
+
+    /**
+     * Creates a source for a classpath resource, found with the context class loader of the
+     * current thread, or the class loader of this class if there is none.
+     *
+     * @param name the name of the resource
+     * @return the source
+     * @throws IllegalArgumentException if the name is <tt>null</tt> or blank
+     */
+    public static ConfigSource ofResource(String name) throws IllegalArgumentException {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return ofResource(loader != null ? loader : ConfigSource.class.getClassLoader(), name);
+    }
+
+    /**
+     * Creates a source for a classpath resource. Resources located in the file system are parsed
+     * as by {@link #of(Path)}, other resources are read into memory.
+     *
+     * @param loader the class loader used to find the resource
+     * @param name the name of the resource
+     * @return the source
+     * @throws IllegalArgumentException if the class loader is <tt>null</tt>, or if the name is
+     *         <tt>null</tt> or blank
+     */
+    public static ConfigSource ofResource(ClassLoader loader, String name)
+            throws IllegalArgumentException {
+        if (loader == null) {
+            throw new IllegalArgumentException("Class loader cannot be null");
+        }
+        if (name == null || name.trim().length() == 0) {
+            throw new IllegalArgumentException("Invalid resource name: " + name);
+        }
+        return new ResourceSource(loader, name);
+    }
+
+    /**
+     * Opens a reader over the lines of the configuration file.
+     *
+     * @param trackOffsets whether or not the byte offsets of the lines are needed
+     * @return the line reader
+     * @throws IOException if an I/O error occurs
+     */
+    abstract LineReader open(boolean trackOffsets) throws IOException;
+
+    /**
+     * A source for the bytes of a buffer.
+     */
+    private static final class ByteBufferSource extends ConfigSource {
+
+        /**
+         * The buffer holding the configuration file.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Creates a new buffer source.
+         *
+         * @param buffer the buffer holding the configuration file
+         */
+        ByteBufferSource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        LineReader open(boolean trackOffsets) {
+            return new ByteBufferLineReader(buffer.duplicate());
+        }
+
+    }
+
+    /**
+     * A source for a character sequence.
+     */
+    private static final class CharSequenceSource extends ConfigSource {
+
+        /**
+         * The text of the configuration file.
+         */
+        private final CharSequence text;
+
+        /**
+         * Creates a new character sequence source.
+         *
+         * @param text the text of the configuration file
+         */
+        CharSequenceSource(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        LineReader open(boolean trackOffsets) {
+            return new CharSequenceLineReader(text, trackOffsets);
+        }
+
+    }
+
+    /**
+     * A source for a file, which is read into memory or memory-mapped when opened, depending on
+     * its size.
+     */
+    private static final class PathSource extends ConfigSource {
+
+        /**
+         * The path to the configuration file.
+         */
+        private final Path path;
+
+        /**
+         * Creates a new file source.
+         *
+         * @param path the path to the configuration file
+         */
+        PathSource(Path path) {
+            this.path = path;
+        }
+
+        @Override
+        LineReader open(boolean trackOffsets) throws IOException {
+            if (!Files.exists(path)) {
+                throw new FileNotFoundException("File does not exist: " + path);
+            }
+            if (!Files.isRegularFile(path)) {
+                throw new FileNotFoundException("File is not a file. Cannot process file: "
+                                                + path.toAbsolutePath());
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("File is too large to be parsed: " + path);
+                }
+                if (size >= MAP_THRESHOLD) {
+                    // The mapping stays valid after the channel is closed, until it is collected
+                    ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                    return new ByteBufferLineReader(buffer);
+                }
+                ByteBuffer buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // Keep reading until the buffer is full or the file ends early
+                }
+                buffer.flip();
+                return new ByteBufferLineReader(buffer);
+            }
+        }
+
+    }
+
+    /**
+     * A source for a classpath resource.
+     */
+    private static final class ResourceSource extends ConfigSource {
+
+        /**
+         * The size of the first buffer used to read resources which are not files.
+         */
+        private static final int INITIAL_BUFFER_SIZE = 8192;
+
+        /**
+         * The class loader used to find the resource.
+         */
+        private final ClassLoader loader;
+
+        /**
+         * The name of the resource.
+         */
+        private final String name;
+
+        /**
+         * Creates a new resource source.
+         *
+         * @param loader the class loader used to find the resource
+         * @param name the name of the resource
+         */
+        ResourceSource(ClassLoader loader, String name) {
+            this.loader = loader;
+            this.name = name;
+        }
+
+        @Override
+        LineReader open(boolean trackOffsets) throws IOException {
+            URL url = loader.getResource(name);
+            if (url == null) {
+                throw new FileNotFoundException("Resource does not exist: " + name);
+            }
+            if ("file".equals(url.getProtocol())) {
+                try {
+                    return new PathSource(Paths.get(url.toURI())).open(trackOffsets);
+                } catch (URISyntaxException | IllegalArgumentException e) {
+                    // Fall back to reading the resource as a stream
+                }
+            }
+            try (InputStream is = url.openStream()) {
+                byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+                int length = 0;
+                int read;
+                while ((read = is.read(bytes, length, bytes.length - length)) >= 0) {
+                    length += read;
+                    if (length == bytes.length) {
+                        bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                    }
+                }
+                return new ByteBufferLineReader(ByteBuffer.wrap(bytes, 0, length));
+            }
+        }
+
+    }
+
+}
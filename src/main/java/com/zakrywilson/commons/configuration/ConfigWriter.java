@@ -0,0 +1,268 @@
+package com.zakrywilson.commons.configuration;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+
+/**
+ * Writes configurations in the format accepted by the parser, one <i>name</i>, <i>element</i>
+ * pair per line.
+ * <p>
+ * The output is encoded through a single byte buffer which is reused across writes, so a writer
+ * must not be shared between threads.
+ *
+ * @author Zach Wilson
+ */
+public final class ConfigWriter {
+
+    /**
+     * The size of the output buffer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The delimiter styles between the <i>name</i> and the <i>element</i> of a line.
+     */
+    public enum Delimiter {
+
+        /**
+         * Equals-delimited lines, e.g., <tt>name = element</tt>.
+         */
+        EQUALS(" = "),
+
+        /**
+         * Colon-delimited lines, e.g., <tt>name: element</tt>.
+         */
+        COLON(": "),
+
+        /**
+         * White space-delimited lines, e.g., <tt>name element</tt>.
+         */
+        WHITESPACE(" ");
+
+        /**
+         * The delimiter as written between the name and the element.
+         */
+        private final String text;
+
+        /**
+         * Creates a new delimiter style.
+         *
+         * @param text the delimiter as written between the name and the element
+         */
+        Delimiter(String text) {
+            this.text = text;
+        }
+
+    }
+
+    /**
+     * The delimiter style to be written.
+     */
+    private final Delimiter delimiter;
+
+    /**
+     * The buffer holding the encoded output until it is written to the channel.
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * Creates a new configuration writer using the equals-delimited style.
+     */
+    public ConfigWriter() {
+        this(Delimiter.EQUALS);
+    }
+
+    /**
+     * Creates a new configuration writer.
+     *
+     * @param delimiter the delimiter style to be written
+     * @throws IllegalArgumentException if the delimiter is <tt>null</tt>
+     */
+    public ConfigWriter(Delimiter delimiter) throws IllegalArgumentException {
+        if (delimiter == null) {
+            throw new IllegalArgumentException("Delimiter cannot be null");
+        }
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Writes a configuration to a channel. The channel is not closed.
+     *
+     * @param config the configuration to be written
+     * @param channel the channel to be written to
+     * @throws IOException if an I/O error occurs
+     * @throws InvalidConfigurationException if a data element cannot be written in a format that
+     *         parses back to the same data element
+     * @throws IllegalArgumentException if the configuration or the channel is <tt>null</tt>
+     */
+    public void write(Config config, WritableByteChannel channel)
+            throws IOException, InvalidConfigurationException, IllegalArgumentException {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        write(config.getElementMap(), channel);
+    }
+
+    /**
+     * Writes a configuration to an output stream. The stream is not closed.
+     *
+     * @param config the configuration to be written
+     * @param os the output stream to be written to
+     * @throws IOException if an I/O error occurs
+     * @throws InvalidConfigurationException if a data element cannot be written in a format that
+     *         parses back to the same data element
+     * @throws IllegalArgumentException if the configuration or the output stream is <tt>null</tt>
+     */
+    public void write(Config config, OutputStream os)
+            throws IOException, InvalidConfigurationException, IllegalArgumentException {
+        if (os == null) {
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        write(config, Channels.newChannel(os));
+    }
+
+    /**
+     * Writes a collection of data elements to a channel, e.g., when generating a configuration
+     * file. All data elements are checked before any is written, so nothing is written if one of
+     * them is invalid. The channel is not closed.
+     *
+     * @param elements the data elements to be written
+     * @param channel the channel to be written to
+     * @throws IOException if an I/O error occurs
+     * @throws InvalidConfigurationException if a data element cannot be written in a format that
+     *         parses back to the same data element
+     * @throws IllegalArgumentException if the data elements or the channel is <tt>null</tt>
+     */
+    public void write(Map<String, String> elements, WritableByteChannel channel)
+            throws IOException, InvalidConfigurationException, IllegalArgumentException {
+        if (elements == null) {
+            throw new IllegalArgumentException("Elements cannot be null");
+        }
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+        // Check every data element first, so that nothing is written if any is invalid
+        for (Map.Entry<String, String> entry : elements.entrySet()) {
+            checkName(entry.getKey());
+            checkElement(entry.getKey(), entry.getValue());
+        }
+        buffer.clear();
+        try {
+            for (Map.Entry<String, String> entry : elements.entrySet()) {
+                String name = entry.getKey();
+                String element = entry.getValue();
+                put(name, channel);
+                put(delimiter.text, channel);
+                put(element, channel);
+                put('\n', channel);
+            }
+            flush(channel);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Checks that a name parses back to itself.
+     *
+     * @param name the name of the data element
+     * @throws InvalidConfigurationException if the name cannot be written
+     */
+    private static void checkName(String name) throws InvalidConfigurationException {
+        if (name == null || name.isEmpty()) {
+            throw new InvalidConfigurationException("Name cannot be null or empty");
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (!Line.isNameChar(name.charAt(i))) {
+                throw new InvalidConfigurationException("Name cannot be written: '" + name + "'");
+            }
+        }
+    }
+
+    /**
+     * Checks that a data element value parses back to itself. The value cannot span lines, nor
+     * start or end with white space, which the parser trims.
+     *
+     * @param name the name of the data element
+     * @param element the value of the data element
+     * @throws InvalidConfigurationException if the value cannot be written
+     */
+    private static void checkElement(String name, String element)
+            throws InvalidConfigurationException {
+        if (element == null || element.isEmpty()) {
+            throw new InvalidConfigurationException("Value cannot be null or empty for name: "
+                                                    + name);
+        }
+        int last = element.length() - 1;
+        if (Line.isWhitespace(element.charAt(0)) || Line.isWhitespace(element.charAt(last))) {
+            throw new InvalidConfigurationException(String.format(
+                    "Value cannot start or end with white space for name '%s': '%s'",
+                    name, element));
+        }
+        for (int i = 0; i <= last; i++) {
+            char c = element.charAt(i);
+            if (!Line.isElementChar(c) || c == '\n' || c == '\r') {
+                throw new InvalidConfigurationException(String.format(
+                        "Value cannot be written for name '%s': '%s'", name, element));
+            }
+        }
+    }
+
+    /**
+     * Encodes a string into the buffer, flushing the buffer to the channel whenever it is full.
+     * Only ASCII strings are written, so each character is encoded as a single byte.
+     *
+     * @param s the string to be written
+     * @param channel the channel to be written to
+     * @throws IOException if an I/O error occurs
+     */
+    private void put(String s, WritableByteChannel channel) throws IOException {
+        byte[] bytes = buffer.array();
+        int length = s.length();
+        int i = 0;
+        while (i < length) {
+            if (!buffer.hasRemaining()) {
+                flush(channel);
+            }
+            int position = buffer.position();
+            int end = Math.min(length, i + buffer.remaining());
+            while (i < end) {
+                bytes[position++] = (byte) s.charAt(i++);
+            }
+            buffer.position(position);
+        }
+    }
+
+    /**
+     * Encodes a character into the buffer, flushing the buffer to the channel if it is full.
+     *
+     * @param c the ASCII character to be written
+     * @param channel the channel to be written to
+     * @throws IOException if an I/O error occurs
+     */
+    private void put(char c, WritableByteChannel channel) throws IOException {
+        if (!buffer.hasRemaining()) {
+            flush(channel);
+        }
+        buffer.put((byte) c);
+    }
+
+    /**
+     * Writes the content of the buffer to the channel and clears the buffer.
+     *
+     * @param channel the channel to be written to
+     * @throws IOException if an I/O error occurs
+     */
+    private void flush(WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+}
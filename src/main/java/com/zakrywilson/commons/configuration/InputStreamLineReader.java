@@ -0,0 +1,138 @@
+package com.zakrywilson.commons.configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads the lines of a UTF-8 encoded configuration file from an {@link InputStream}.
+ * <p>
+ * Line terminators are found by scanning the bytes, which is safe in UTF-8 as their byte values
+ * never occur within a multi-byte sequence. Each line is then decoded on its own, so the byte
+ * offsets count the bytes actually read, even if the stream holds malformed UTF-8.
+ *
+ * @author Zach Wilson
+ */
+final class InputStreamLineReader extends LineReader {
+
+    /**
+     * The initial size of the byte buffer, which grows to hold the longest line.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The input stream for the configuration file.
+     */
+    private final InputStream stream;
+
+    /**
+     * The byte buffer.
+     */
+    private byte[] buffer = new byte[BUFFER_SIZE];
+
+    /**
+     * The position of the start of the next line in the buffer.
+     */
+    private int position;
+
+    /**
+     * The number of valid bytes in the buffer.
+     */
+    private int limit;
+
+    /**
+     * The byte offset of the start of the buffer in the stream.
+     */
+    private long bufferOffset;
+
+    /**
+     * Flags whether or not the previous line was terminated by a carriage return, in which case a
+     * directly following line feed belongs to the same terminator.
+     */
+    private boolean skipLineFeed;
+
+    /**
+     * Creates a new line reader.
+     *
+     * @param stream the input stream for the configuration file
+     */
+    InputStreamLineReader(InputStream stream) {
+        this.stream = stream;
+    }
+
+    @Override
+    String readLine() throws IOException {
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if ((position < limit || fill()) && buffer[position] == '\n') {
+                position++;
+            }
+        }
+        int end = position;
+        while (true) {
+            while (end < limit && buffer[end] != '\n' && buffer[end] != '\r') {
+                end++;
+            }
+            if (end < limit) {
+                break;
+            }
+            int shift = position;
+            boolean filled = fill();
+            end -= shift;
+            if (!filled) {
+                if (end == position) {
+                    return null;
+                }
+                String line = new String(buffer, position, end - position, StandardCharsets.UTF_8);
+                long offset = bufferOffset + position;
+                position = end;
+                return advance(line, offset);
+            }
+        }
+        String line = new String(buffer, position, end - position, StandardCharsets.UTF_8);
+        long offset = bufferOffset + position;
+        skipLineFeed = buffer[end] == '\r';
+        position = end + 1;
+        return advance(line, offset);
+    }
+
+    /**
+     * Closes the underlying {@link InputStream}.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+
+    /**
+     * Moves the unread bytes to the start of the buffer, growing it if it is full, and reads more
+     * bytes after them.
+     *
+     * @return <tt>false</tt> if the end of the stream has been reached
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            bufferOffset += position;
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read;
+        do {
+            read = stream.read(buffer, limit, buffer.length - limit);
+        } while (read == 0);
+        if (read < 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+}
@@ -60,6 +60,86 @@ final class Line {
         return containsData;
     }
 
+    /**
+     * Finds the column of the first character of a malformed line which does not fit the
+     * <i>name</i>, <i>delimiter</i>, <i>element</i>, <i>comment</i> format.
+     *
+     * @param line the malformed line
+     * @return the column of the offending character, starting at <tt>1</tt>
+     */
+    static int findMalformedColumn(String line) {
+        int length = line.length();
+        int i = 0;
+        while (i < length && isWhitespace(line.charAt(i))) {
+            i++;
+        }
+        int nameStart = i;
+        while (i < length && isNameChar(line.charAt(i))) {
+            i++;
+        }
+        if (i == nameStart) {
+            return i + 1;
+        }
+        int start = i;
+        while (i < length && isDelimiterChar(line.charAt(i))) {
+            i++;
+        }
+        if (i == start) {
+            return i + 1;
+        }
+        start = i;
+        while (i < length && isElementChar(line.charAt(i))) {
+            i++;
+        }
+        if (i == start || (i < length && line.charAt(i) != '#')) {
+            return i + 1;
+        }
+        // The characters all fit, so point at the start of the name
+        return nameStart + 1;
+    }
+
+    /**
+     * Checks whether a character may be part of a <i>name</i>.
+     *
+     * @param c the character
+     * @return <tt>true</tt> if the character is valid in a name
+     */
+    static boolean isNameChar(char c) {
+        return (c >= 'A' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Checks whether a character may be part of an <i>element</i>.
+     *
+     * @param c the character
+     * @return <tt>true</tt> if the character is valid in an element
+     */
+    static boolean isElementChar(char c) {
+        return isNameChar(c) || isWhitespace(c) || c == '.' || c == '/';
+    }
+
+    /**
+     * Checks whether a character may be part of the delimiter between the <i>name</i> and the
+     * <i>element</i>.
+     *
+     * @param c the character
+     * @return <tt>true</tt> if the character is valid in a delimiter
+     */
+    static boolean isDelimiterChar(char c) {
+        return isWhitespace(c) || c == ':' || c == '=';
+    }
+
+    /**
+     * Checks whether a character is white space, as matched by the <tt>\s</tt> regular
+     * expression class.
+     *
+     * @param c the character
+     * @return <tt>true</tt> if the character is white space
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     /**
      * Initializes the line by parsing out the <i>name</i> and <i>value</i>.
      *
@@ -78,13 +158,13 @@ final class Line {
 
         line = line.trim();
         if (!line.matches("[A-za-z0-9_]+(\\s)*(=|:|\\s+)+(\\s)*[A-za-z0-9\\s_[.][/]\\\\]+(\\s*#+.*)?")) {
-            throw new InvalidConfigurationException("Line is malformed: '" + line + "'");
+            throw invalid("Line is malformed: '" + line + "'");
         }
 
         // Split the line by a colon, an equals sign, or white space
         String[] pair = line.trim().split("(\\s)*((\\s)*(:|=|\\s+)(\\s)*)+(\\s)*", 2);
         if (pair.length < 2) {
-            throw new InvalidConfigurationException("Line does not contain only a name and an element: '" + line + "'");
+            throw invalid("Line does not contain only a name and an element: '" + line + "'");
         }
 
         // Line is valid and contains data: store it
@@ -93,4 +173,15 @@ final class Line {
         containsData = true;
     }
 
+    /**
+     * Creates an {@link InvalidConfigurationException}, skipping the stack trace in lightweight
+     * exception mode.
+     *
+     * @param msg the detail message
+     * @return the exception
+     */
+    private static InvalidConfigurationException invalid(String msg) {
+        return new InvalidConfigurationException(msg, null, !Config.isLightweightExceptions());
+    }
+
 }
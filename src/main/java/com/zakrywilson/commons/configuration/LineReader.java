@@ -0,0 +1,100 @@
+package com.zakrywilson.commons.configuration;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the lines of a configuration file while keeping track of their position.
+ * <p>
+ * Lines are terminated by a line feed, a carriage return, or a carriage return followed by a line
+ * feed.
+ *
+ * @author Zach Wilson
+ */
+abstract class LineReader implements Closeable {
+
+    /**
+     * The number of the last line read.
+     */
+    private int lineNumber;
+
+    /**
+     * The byte offset of the start of the last line read.
+     */
+    private long byteOffset;
+
+    /**
+     * Reads the next line, excluding its terminator.
+     *
+     * @return the next line or <tt>null</tt> if the end of the file has been reached
+     * @throws IOException if an I/O error occurs
+     */
+    abstract String readLine() throws IOException;
+
+    /**
+     * Gets the number of the last line read, starting at <tt>1</tt>.
+     *
+     * @return the line number
+     */
+    final int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Gets the byte offset of the start of the last line read, from the start of the UTF-8
+     * encoded configuration file. Readers of bytes count the bytes actually read. Readers of
+     * characters only track offsets if requested on creation, otherwise <tt>0</tt> is returned.
+     *
+     * @return the byte offset
+     */
+    final long getByteOffset() {
+        return byteOffset;
+    }
+
+    /**
+     * Closes the underlying source. By default, there is nothing to close.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {}
+
+    /**
+     * Records that a line has been read.
+     *
+     * @param line the line which has been read
+     * @param offset the byte offset of the start of the line
+     * @return the line
+     */
+    final String advance(String line, long offset) {
+        lineNumber++;
+        byteOffset = offset;
+        return line;
+    }
+
+    /**
+     * Gets the number of bytes required to encode a character sequence in UTF-8.
+     *
+     * @param s the character sequence
+     * @param start the index of the first character, inclusive
+     * @param end the index of the last character, exclusive
+     * @return the UTF-8 encoded length
+     */
+    static long utf8Length(CharSequence s, int start, int end) {
+        long length = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isSurrogate(c)) {
+                length += 2; // A surrogate pair encodes to four bytes
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+}
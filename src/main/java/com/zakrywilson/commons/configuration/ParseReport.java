@@ -0,0 +1,165 @@
+package com.zakrywilson.commons.configuration;
+
+import java.util.Arrays;
+
+/**
+ * Collects the malformed lines rejected while parsing a configuration file.
+ * <p>
+ * Passing a report to {@link Config#Config(String, ParseReport)},
+ * {@link Config#Config(java.io.InputStream, ParseReport)} or
+ * {@link Config#Config(ConfigSource, ParseReport)} makes the parser skip malformed lines instead
+ * of failing on the first one, so that every error is found in a single pass. Each error
+ * is identified by its index, from <tt>0</tt> (inclusive) to {@link #size()} (exclusive).
+ *
+ * @author Zach Wilson
+ */
+public final class ParseReport {
+
+    /**
+     * The initial capacity of the error arrays.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * The line numbers of the errors, starting at <tt>1</tt>.
+     */
+    private int[] lineNumbers = new int[INITIAL_CAPACITY];
+
+    /**
+     * The columns of the errors, starting at <tt>1</tt>.
+     */
+    private int[] columns = new int[INITIAL_CAPACITY];
+
+    /**
+     * The byte offsets of the start of the malformed lines.
+     */
+    private long[] byteOffsets = new long[INITIAL_CAPACITY];
+
+    /**
+     * The error messages.
+     */
+    private String[] messages = new String[INITIAL_CAPACITY];
+
+    /**
+     * The number of errors.
+     */
+    private int size;
+
+    /**
+     * Gets the number of errors.
+     *
+     * @return the number of errors
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns <tt>true</tt> if no errors were found.
+     *
+     * @return <tt>true</tt> if the configuration file was parsed without errors
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of the malformed line, starting at <tt>1</tt>.
+     *
+     * @param index the index of the error
+     * @return the line number
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getLineNumber(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return lineNumbers[index];
+    }
+
+    /**
+     * Gets the column of the first character which does not fit the line format, starting at
+     * <tt>1</tt>. Columns are counted in characters from the start of the line.
+     *
+     * @param index the index of the error
+     * @return the column
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getColumn(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return columns[index];
+    }
+
+    /**
+     * Gets the offset of the start of the malformed line, in bytes from the start of the
+     * UTF-8 encoded configuration file.
+     *
+     * @param index the index of the error
+     * @return the byte offset
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getByteOffset(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return byteOffsets[index];
+    }
+
+    /**
+     * Gets the message describing the error.
+     *
+     * @param index the index of the error
+     * @return the error message
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public String getMessage(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+        return messages[index];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(size).append(size == 1 ? " error" : " errors");
+        for (int i = 0; i < size; i++) {
+            builder.append(System.lineSeparator())
+                   .append("line ").append(lineNumbers[i])
+                   .append(", column ").append(columns[i])
+                   .append(" (byte ").append(byteOffsets[i]).append("): ")
+                   .append(messages[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Records an error.
+     *
+     * @param lineNumber the number of the malformed line
+     * @param column the column of the error within the line
+     * @param byteOffset the byte offset of the start of the malformed line
+     * @param message the error message
+     */
+    void add(int lineNumber, int column, long byteOffset, String message) {
+        if (size == lineNumbers.length) {
+            int capacity = size * 2;
+            lineNumbers = Arrays.copyOf(lineNumbers, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+            byteOffsets = Arrays.copyOf(byteOffsets, capacity);
+            messages = Arrays.copyOf(messages, capacity);
+        }
+        lineNumbers[size] = lineNumber;
+        columns[size] = column;
+        byteOffsets[size] = byteOffset;
+        messages[size] = message;
+        size++;
+    }
+
+    /**
+     * Checks that an error index is in range.
+     *
+     * @param index the index of the error
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+}
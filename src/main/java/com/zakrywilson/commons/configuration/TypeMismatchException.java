@@ -61,4 +61,21 @@ public final class TypeMismatchException extends RuntimeException {
         super(msg, cause);
     }
 
+    /**
+     * Constructs a new runtime exception with the specified detail message and cause, and with the
+     * stack trace either captured or skipped. Skipping the stack trace makes the runtime exception
+     * cheap to construct, at the cost of {@link Throwable#getStackTrace()} returning an empty
+     * array.
+     *
+     * @param msg the detail message (which is saved for later retrieval by the
+     *        {@link Throwable#getMessage()} method)
+     * @param cause the cause (which is saved for later retrieval by the
+     *        {@link Throwable#getCause()} method). (A <tt>null</tt> value is permitted, and
+     *        indicates that the cause is nonexistent or unknown.)
+     * @param writableStackTrace whether or not the stack trace should be captured
+     */
+    public TypeMismatchException(String msg, Throwable cause, boolean writableStackTrace) {
+        super(msg, cause, true, writableStackTrace);
+    }
+
 }
@@ -0,0 +1,100 @@
+package com.zakrywilson.commons.configuration;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConfigDiffTest {
+
+    /**
+     * Tests that added, removed and changed data elements are detected and that unchanged data
+     * elements are not reported.
+     *
+     * @throws Exception if the parsing fails
+     */
+    @Test
+    public void diff() throws Exception {
+        Config oldConfig = parse("kept = 1\nchanged = 2\nremoved = 3\n");
+        Config newConfig = parse("kept: 1\nchanged: 20\nadded: 4\n");
+
+        ConfigDiff diff = oldConfig.diff(newConfig);
+
+        Assert.assertEquals(3, diff.size());
+        Assert.assertEquals("4", diff.getAdded().get("added"));
+        Assert.assertTrue(diff.getRemoved().contains("removed"));
+        Assert.assertEquals("20", diff.getChanged().get("changed"));
+        Assert.assertFalse(diff.getChanged().containsKey("kept"));
+        Assert.assertTrue(newConfig.diff(newConfig).isEmpty());
+    }
+
+    /**
+     * Tests that applying a diff to its source configuration produces the target configuration.
+     *
+     * @throws Exception if the parsing fails
+     */
+    @Test
+    public void apply() throws Exception {
+        Config oldConfig = parse("kept = 1\nchanged = 2\nremoved = 3\n");
+        Config newConfig = parse("kept = 1\nchanged = 20\nadded = 4\n");
+
+        Config patched = oldConfig.diff(newConfig).apply(oldConfig);
+
+        Assert.assertTrue(patched.diff(newConfig).isEmpty());
+        Assert.assertEquals(3, oldConfig.size());
+        Assert.assertEquals("2", oldConfig.getString("changed"));
+    }
+
+    /**
+     * Tests that large configurations, which are compared in parallel, produce the same result as
+     * small ones.
+     *
+     * @throws Exception if the parsing fails
+     */
+    @Test
+    public void diffLarge() throws Exception {
+        StringBuilder oldLines = new StringBuilder();
+        StringBuilder newLines = new StringBuilder();
+        int count = 50000;
+        int changed = 0;
+        for (int i = 0; i < count; i++) {
+            oldLines.append("key_").append(i).append(" = ").append(i).append('\n');
+            if (i % 10 == 0) {
+                continue;
+            }
+            int value = i;
+            if (i % 7 == 0) {
+                value += count;
+                changed++;
+            }
+            newLines.append("key_").append(i).append(" = ").append(value).append('\n');
+        }
+        newLines.append("extra = value\n");
+
+        Config oldConfig = parse(oldLines.toString());
+        Config newConfig = parse(newLines.toString());
+        ConfigDiff diff = oldConfig.diff(newConfig);
+
+        Assert.assertEquals(1, diff.getAdded().size());
+        Assert.assertEquals(count / 10, diff.getRemoved().size());
+        Assert.assertEquals(changed, diff.getChanged().size());
+        Assert.assertEquals("value", diff.getAdded().get("extra"));
+        Assert.assertTrue(diff.getRemoved().contains("key_10"));
+        Assert.assertEquals(String.valueOf(7 + count), diff.getChanged().get("key_7"));
+        Assert.assertFalse(diff.getChanged().containsKey("key_1"));
+        Assert.assertEquals(newConfig, diff.apply(oldConfig));
+    }
+
+    /**
+     * Parses a configuration from a string.
+     *
+     * @param content the configuration file content
+     * @return the configuration
+     * @throws Exception if the parsing fails
+     */
+    private static Config parse(String content) throws Exception {
+        return new Config(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.zakrywilson.commons.configuration;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConfigSourceTest {
+
+    /** The content of the configuration file. */
+    private static final String CONTENT = "my_int = 42\r\n# comment\nmy_string: hello world\n";
+
+    /**
+     * Tests that every kind of source produces the same configuration.
+     *
+     * @throws Exception if the parsing fails
+     */
+    @Test
+    public void sources() throws Exception {
+        byte[] bytes = CONTENT.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[bytes.length + 8];
+        System.arraycopy(bytes, 0, padded, 4, bytes.length);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        Path path = Files.createTempFile("config", ".config");
+        try {
+            Files.write(path, bytes);
+
+            assertContent(new Config(ConfigSource.of(bytes)));
+            assertContent(new Config(ConfigSource.of(padded, 4, bytes.length)));
+            assertContent(new Config(ConfigSource.of(ByteBuffer.wrap(bytes))));
+            assertContent(new Config(ConfigSource.of(direct)));
+            assertContent(new Config(ConfigSource.of(CONTENT)));
+            assertContent(new Config(ConfigSource.of(new StringBuilder(CONTENT))));
+            assertContent(new Config(ConfigSource.of(path)));
+            assertContent(new Config(ConfigSource.ofResource("test.config")));
+        } finally {
+            Files.delete(path);
+        }
+        Assert.assertEquals(0, direct.position());
+    }
+
+    /**
+     * Tests that a file large enough to be memory-mapped is parsed like a small one.
+     *
+     * @throws Exception if the parsing fails
+     */
+    @Test
+    public void largeFile() throws Exception {
+        StringBuilder content = new StringBuilder(CONTENT);
+        int count = 0;
+        while (content.length() < 2 << 20) {
+            content.append("key_").append(count).append(" = value_").append(count).append('\n');
+            count++;
+        }
+        Path path = Files.createTempFile("config", ".config");
+        try {
+            Files.write(path, content.toString().getBytes(StandardCharsets.UTF_8));
+            Config config = new Config(ConfigSource.of(path));
+            Assert.assertEquals(count + 2, config.size());
+            Assert.assertEquals(42, config.getInt("my_int"));
+            Assert.assertEquals("value_" + (count - 1), config.getString("key_" + (count - 1)));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Tests that the byte offsets of malformed lines are reported from the start of the source.
+     *
+     * @throws Exception if the parsing fails
+     */
+    @Test
+    public void byteOffsets() throws Exception {
+        String content = "my_int = 42\r\nbad-name = 1\n";
+        byte[] bytes = ("xx" + content).getBytes(StandardCharsets.UTF_8);
+
+        ParseReport bytesReport = new ParseReport();
+        new Config(ConfigSource.of(bytes, 2, bytes.length - 2), bytesReport);
+        ParseReport textReport = new ParseReport();
+        new Config(ConfigSource.of(content), textReport);
+
+        Assert.assertEquals(1, bytesReport.size());
+        Assert.assertEquals(2, bytesReport.getLineNumber(0));
+        Assert.assertEquals(13, bytesReport.getByteOffset(0));
+        Assert.assertEquals(13, textReport.getByteOffset(0));
+    }
+
+    /**
+     * Asserts that a configuration holds the content of {@link #CONTENT}.
+     *
+     * @param config the configuration
+     */
+    private static void assertContent(Config config) {
+        Assert.assertEquals(2, config.size());
+        Assert.assertEquals(42, config.getInt("my_int"));
+        Assert.assertEquals("hello world", config.getString("my_string"));
+    }
+
+}
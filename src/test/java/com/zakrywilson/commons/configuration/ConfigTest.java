@@ -0,0 +1,204 @@
+package com.zakrywilson.commons.configuration;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConfigTest {
+
+    /** The configuration under test. */
+    private Config config;
+
+    /**
+     * Parses the configuration under test.
+     *
+     * @throws Exception if the parsing fails
+     */
+    @Before
+    public void setUp() throws Exception {
+        String content = "my_int = 42\n"
+                       + "my_long = 100\n"
+                       + "my_double = 0.5\n"
+                       + "my_bool = true\n"
+                       + "my_string = hello\n";
+        config = new Config(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Tests that the non-throwing lookups return the values of existing elements and the defaults
+     * of missing ones.
+     */
+    @Test
+    public void lookupsWithoutThrowing() {
+        Assert.assertTrue(config.contains("my_int"));
+        Assert.assertFalse(config.contains("missing"));
+
+        Assert.assertEquals(42, config.getIntOrDefault("my_int", 7));
+        Assert.assertEquals(7, config.getIntOrDefault("missing", 7));
+        Assert.assertEquals(100L, config.getLongOrDefault("my_long", 7L));
+        Assert.assertEquals(0.5, config.getDoubleOrDefault("my_double", 7.0), 0.0);
+        Assert.assertTrue(config.getBooleanOrDefault("my_bool", false));
+        Assert.assertEquals("fallback", config.getStringOrDefault("missing", "fallback"));
+
+        Assert.assertEquals(42, config.findInt("my_int").getAsInt());
+        Assert.assertFalse(config.findInt("missing").isPresent());
+        Assert.assertEquals(100L, config.findLong("my_long").getAsLong());
+        Assert.assertFalse(config.findDouble("missing").isPresent());
+        Assert.assertEquals("hello", config.findString("my_string").get());
+    }
+
+    /**
+     * Tests that a lookup of an existing element which cannot be parsed still fails.
+     */
+    @Test(expected = TypeMismatchException.class)
+    public void lookupTypeMismatch() {
+        config.getIntOrDefault("my_string", 7);
+    }
+
+    /**
+     * Tests that exceptions constructed without a writable stack trace capture no stack frames.
+     */
+    @Test
+    public void exceptionsWithoutStackTrace() {
+        Assert.assertEquals(0, new TypeMismatchException("msg", null, false)
+                .getStackTrace().length);
+        Assert.assertEquals(0, new InvalidConfigurationException("msg", null, false)
+                .getStackTrace().length);
+        Assert.assertNotEquals(0, new TypeMismatchException("msg", null, true)
+                .getStackTrace().length);
+    }
+
+    /**
+     * Tests that in lightweight exception mode, type mismatches carry neither a stack trace nor a
+     * {@link NumberFormatException} cause.
+     */
+    @Test
+    public void lightweightTypeMismatch() {
+        boolean previous = Config.isLightweightExceptions();
+        Config.setLightweightExceptions(true);
+        try {
+            try {
+                config.getInt("my_string");
+                Assert.fail("Value should not have been parsed as an integer");
+            } catch (TypeMismatchException e) {
+                Assert.assertEquals(0, e.getStackTrace().length);
+                Assert.assertNull(e.getCause());
+            }
+            try {
+                config.findDouble("my_string");
+                Assert.fail("Value should not have been parsed as a double");
+            } catch (TypeMismatchException e) {
+                Assert.assertEquals(0, e.getStackTrace().length);
+                Assert.assertNull(e.getCause());
+            }
+        } finally {
+            Config.setLightweightExceptions(previous);
+        }
+    }
+
+    /**
+     * Tests that in lightweight exception mode, malformed lines are rejected without a stack
+     * trace.
+     *
+     * @throws Exception if the parsing fails for another reason
+     */
+    @Test
+    public void lightweightInvalidConfiguration() throws Exception {
+        boolean previous = Config.isLightweightExceptions();
+        Config.setLightweightExceptions(true);
+        try {
+            new Config(ConfigSource.of("bad-name = 1\n"));
+            Assert.fail("Line should have been rejected");
+        } catch (InvalidConfigurationException e) {
+            Assert.assertEquals(0, e.getStackTrace().length);
+        } finally {
+            Config.setLightweightExceptions(previous);
+        }
+    }
+
+    /**
+     * Tests that the checks made in lightweight exception mode accept exactly the values that the
+     * number parsers accept.
+     */
+    @Test
+    public void lightweightChecksMatchParsers() {
+        String[] values = {"0", "42", "-7", "+7", "", "-", "+", "abc", "1a", "127", "128", "-128",
+                           "-129", "32767", "32768", "2147483647", "2147483648", "-2147483648",
+                           "-2147483649", "9223372036854775807", "9223372036854775808",
+                           "-9223372036854775808", "-9223372036854775809", "00012", "0.5", ".5",
+                           "5.", ".", "1e10", "1E-3", "1e", "1.5f", "2d", "f", " 1.5 ", "NaN",
+                           "-Infinity", "Infinityf", "0x1p3", "0x1.8P-1", "0x1", "0xp1",
+                           "1e400", "1..2", "1.2.3", "e5"};
+        Map<String, String> elements = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            elements.put("v" + i, values[i]);
+        }
+        Config numbers = new Config(elements);
+        boolean previous = Config.isLightweightExceptions();
+        try {
+            for (int i = 0; i < values.length; i++) {
+                String name = "v" + i;
+                Config.setLightweightExceptions(false);
+                String expected = parseAll(numbers, name);
+                Config.setLightweightExceptions(true);
+                Assert.assertEquals("Value: '" + values[i] + "'", expected,
+                                    parseAll(numbers, name));
+            }
+        } finally {
+            Config.setLightweightExceptions(previous);
+        }
+    }
+
+    /**
+     * Parses an element into every numeric type.
+     *
+     * @param config the configuration
+     * @param name the name of the element
+     * @return the parsed values, or <tt>x</tt> for each type the element cannot be parsed into
+     */
+    private static String parseAll(Config config, String name) {
+        StringBuilder result = new StringBuilder();
+        try {
+            result.append(config.getByte(name));
+        } catch (TypeMismatchException e) {
+            result.append('x');
+        }
+        result.append(' ');
+        try {
+            result.append(config.getShort(name));
+        } catch (TypeMismatchException e) {
+            result.append('x');
+        }
+        result.append(' ');
+        try {
+            result.append(config.getInt(name));
+        } catch (TypeMismatchException e) {
+            result.append('x');
+        }
+        result.append(' ');
+        try {
+            result.append(config.getLong(name));
+        } catch (TypeMismatchException e) {
+            result.append('x');
+        }
+        result.append(' ');
+        try {
+            result.append(config.getFloat(name));
+        } catch (TypeMismatchException e) {
+            result.append('x');
+        }
+        result.append(' ');
+        try {
+            result.append(config.getDouble(name));
+        } catch (TypeMismatchException e) {
+            result.append('x');
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.zakrywilson.commons.configuration;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConfigWriterTest {
+
+    /**
+     * Tests that a written configuration parses back to the same configuration in every delimiter
+     * style.
+     *
+     * @throws Exception if the writing or the parsing fails
+     */
+    @Test
+    public void roundTrip() throws Exception {
+        Config config = new Config(ConfigSource.of("my_int = 0\n"
+                                                 + "my_string = hello world\n"
+                                                 + "my_file: path/to/my/file\n"
+                                                 + "my_double  999999.999\n"));
+        for (ConfigWriter.Delimiter delimiter : ConfigWriter.Delimiter.values()) {
+            Assert.assertEquals(delimiter.name(), config, roundTrip(config, delimiter));
+        }
+    }
+
+    /**
+     * Tests that a configuration larger than the output buffer parses back to the same
+     * configuration.
+     *
+     * @throws Exception if the writing or the parsing fails
+     */
+    @Test
+    public void roundTripLarge() throws Exception {
+        Map<String, String> elements = new HashMap<>();
+        for (int i = 0; i < 50000; i++) {
+            elements.put("key_" + i, "value " + i + " path/to/file_" + i + ".txt");
+        }
+        Config config = new Config(elements);
+        Assert.assertEquals(config, roundTrip(config, ConfigWriter.Delimiter.COLON));
+    }
+
+    /**
+     * Tests that a value which would not parse back to itself is rejected.
+     *
+     * @throws Exception if the writing fails
+     */
+    @Test(expected = InvalidConfigurationException.class)
+    public void rejectUnparsableValue() throws Exception {
+        Map<String, String> elements = new HashMap<>();
+        elements.put("my_string", "value # not a comment");
+        new ConfigWriter().write(new Config(elements), new ByteArrayOutputStream());
+    }
+
+    /**
+     * Tests that nothing is written when an invalid value follows enough valid ones to fill the
+     * output buffer.
+     *
+     * @throws Exception if the writing fails for another reason
+     */
+    @Test
+    public void writeNothingOnInvalidValue() throws Exception {
+        Map<String, String> elements = new LinkedHashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            elements.put("key_" + i, "value_" + i);
+        }
+        elements.put("zz", "bad#");
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try {
+            new ConfigWriter().write(elements, Channels.newChannel(os));
+            Assert.fail("Value should have been rejected");
+        } catch (InvalidConfigurationException e) {
+            Assert.assertEquals(0, os.size());
+        }
+    }
+
+    /**
+     * Writes a configuration and parses it back.
+     *
+     * @param config the configuration to be written
+     * @param delimiter the delimiter style to be written
+     * @return the parsed configuration
+     * @throws Exception if the writing or the parsing fails
+     */
+    private static Config roundTrip(Config config, ConfigWriter.Delimiter delimiter)
+            throws Exception {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        new ConfigWriter(delimiter).write(config, os);
+        return new Config(ConfigSource.of(os.toByteArray()));
+    }
+
+}
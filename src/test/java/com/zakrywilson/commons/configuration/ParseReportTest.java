@@ -0,0 +1,119 @@
+package com.zakrywilson.commons.configuration;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParseReportTest {
+
+    /**
+     * Tests that every malformed line is recorded with its position while the valid lines are
+     * still parsed.
+     *
+     * @throws Exception if the parsing fails
+     */
+    @Test
+    public void collectErrors() throws Exception {
+        String content = "first = 1\r\n"
+                       + "# \u00e9t\u00e9 comment\n"
+                       + "bad-name = 2\n"
+                       + "second: 2\n"
+                       + "  third = $value\r"
+                       + "fourth\n";
+        ParseReport report = new ParseReport();
+        Config config = new Config(stream(content), report);
+
+        Assert.assertEquals(2, config.size());
+        Assert.assertEquals("1", config.getString("first"));
+        Assert.assertEquals("2", config.getString("second"));
+
+        Assert.assertEquals(3, report.size());
+
+        Assert.assertEquals(3, report.getLineNumber(0));
+        Assert.assertEquals(4, report.getColumn(0));
+        Assert.assertEquals(content.indexOf("bad-name") + 2, report.getByteOffset(0));
+
+        Assert.assertEquals(5, report.getLineNumber(1));
+        Assert.assertEquals(11, report.getColumn(1));
+        Assert.assertEquals(content.indexOf("  third") + 2, report.getByteOffset(1));
+
+        Assert.assertEquals(6, report.getLineNumber(2));
+        Assert.assertEquals(7, report.getColumn(2));
+        Assert.assertEquals(content.indexOf("fourth") + 2, report.getByteOffset(2));
+    }
+
+    /**
+     * Tests that byte offsets read from a stream count the bytes actually read when the stream
+     * holds malformed UTF-8.
+     *
+     * @throws Exception if the parsing fails
+     */
+    @Test
+    public void offsetsAfterMalformedBytes() throws Exception {
+        byte[] bytes = {'a', ' ', '=', ' ', '1', (byte) 0xFF, '\n', 'b', '-', ' ', '2', '\n'};
+
+        ParseReport streamReport = new ParseReport();
+        new Config(new ByteArrayInputStream(bytes), streamReport);
+        ParseReport bytesReport = new ParseReport();
+        new Config(ConfigSource.of(bytes), bytesReport);
+
+        Assert.assertEquals(2, streamReport.size());
+        Assert.assertEquals(2, streamReport.getLineNumber(1));
+        Assert.assertEquals(7, streamReport.getByteOffset(1));
+        Assert.assertEquals(bytesReport.getByteOffset(1), streamReport.getByteOffset(1));
+    }
+
+    /**
+     * Tests that lines spanning many reads from a stream, and lines longer than the read buffer,
+     * are read whole and at the right offsets.
+     *
+     * @throws Exception if the parsing fails
+     */
+    @Test
+    public void offsetsAcrossReads() throws Exception {
+        StringBuilder longValue = new StringBuilder();
+        while (longValue.length() < 20000) {
+            longValue.append("value_");
+        }
+        String content = "first = 1\r\nlong = " + longValue + "\r\nbad-name = 2\n";
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        InputStream slow = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 7));
+            }
+        };
+
+        ParseReport report = new ParseReport();
+        Config config = new Config(slow, report);
+
+        Assert.assertEquals(longValue.toString(), config.getString("long"));
+        Assert.assertEquals(1, report.size());
+        Assert.assertEquals(3, report.getLineNumber(0));
+        Assert.assertEquals(content.indexOf("bad-name"), report.getByteOffset(0));
+    }
+
+    /**
+     * Tests that parsing without a report still fails on the first malformed line.
+     *
+     * @throws Exception if the parsing fails
+     */
+    @Test(expected = InvalidConfigurationException.class)
+    public void failFast() throws Exception {
+        new Config(stream("first = 1\nbad-name = 2\n"));
+    }
+
+    /**
+     * Creates an input stream for the UTF-8 encoded content.
+     *
+     * @param content the configuration file content
+     * @return the input stream
+     */
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}